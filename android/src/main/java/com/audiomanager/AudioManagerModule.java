@@ -2,6 +2,7 @@ package com.audiomanager;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.MainThread;
+import androidx.annotation.RequiresApi;
 
 import android.app.Activity;
 import android.content.Context;
@@ -10,9 +11,15 @@ import android.content.IntentFilter;
 import android.content.BroadcastReceiver;
 import android.content.pm.PackageManager;
 
+import android.hardware.Sensor;
+import android.hardware.SensorEvent;
+import android.hardware.SensorEventListener;
+import android.hardware.SensorManager;
+
 import android.media.AudioAttributes;
 import android.media.AudioDeviceInfo;
 import android.media.AudioFocusRequest;
+import android.media.AudioFormat;
 import android.media.AudioManager;
 
 import androidx.mediarouter.media.MediaRouter;
@@ -29,6 +36,8 @@ import android.bluetooth.BluetoothProfile;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.PowerManager;
+import android.os.SystemClock;
 import android.util.Log;
 
 import com.facebook.react.bridge.Arguments;
@@ -39,6 +48,7 @@ import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.UiThreadUtil;
@@ -46,6 +56,7 @@ import com.facebook.react.module.annotations.ReactModule;
 import com.facebook.react.modules.core.DeviceEventManagerModule;
 
 import java.lang.Runnable;
+import java.util.Arrays;
 import java.util.List;
 import java.util.HashSet;
 import java.util.Set;
@@ -57,7 +68,7 @@ import java.util.TimerTask;
 import java.util.ArrayList;
 
 @ReactModule(name = AudioManagerModule.NAME)
-public class AudioManagerModule extends ReactContextBaseJavaModule implements AudioManager.OnAudioFocusChangeListener {
+public class AudioManagerModule extends ReactContextBaseJavaModule implements AudioManager.OnAudioFocusChangeListener, LifecycleEventListener {
   public static final String NAME = "AudioManager";
   private static final String TAG = NAME;
   private static final String ROUTE_ADDED_EVENT_NAME = "onRouteAdded";
@@ -65,6 +76,11 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
   private static final String ROUTE_SELECTED_EVENT_NAME = "onRouteSelected";
   private static final String ROUTE_UNSELECTED_EVENT_NAME = "onRouteUnselected";
   private static final String DEVICE_CHANGED_EVENT_NAME = "onAudioDeviceChanged";
+  private static final String BLUETOOTH_PROFILE_CHANGED_EVENT_NAME = "onBluetoothProfileChanged";
+  private static final String STATE_SNAPSHOT_EVENT_NAME = "onStateSnapshot";
+  private static final String AUDIO_MODE_CHANGED_EVENT_NAME = "onAudioModeChanged";
+  private static final String ROUTE_HEALTH_CHANGED_EVENT_NAME = "onRouteHealthChanged";
+  private static final String PROXIMITY_ROUTE_CHANGED_EVENT_NAME = "onProximityRouteChanged";
   private final static int HEADSET_PLUGGED = 1;
   private final static int HEADSET_UNPLUGGED = 0;
 
@@ -78,6 +94,7 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
   // MediaRouter
   private MediaRouter mediaRouter;
   private MediaRouter.Callback mediaRouterCallback;
+  private MediaRouteSelector mediaRouteSelector;
 
   // BluetoothReceiver
   private final BroadcastReceiver headsetReceiver;
@@ -88,10 +105,80 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
   private final ReactApplicationContext reactContext;
   private final ExecutorService executor = Executors.newSingleThreadExecutor();
   private final Handler handler = new Handler(Looper.getMainLooper());
-  private final int DEVICE_TYPE_BLUETOOTH = 3;
   private Timer scoStatusTimer;
   private boolean wiredHeadsetIsPlugged = false;
+  private volatile SessionUsage sessionUsage = SessionUsage.COMMUNICATION;
+  private volatile BluetoothProfileType activeBluetoothProfile = BluetoothProfileType.NONE;
+  private volatile boolean isStarted = false;
+  private boolean isModeListenerRegistered = false;
+  private volatile AudioMode audioMode = AudioMode.NORMAL;
+  private int previousPlatformMode = AudioManager.MODE_INVALID;
+  private int lastReportedPlatformMode = AudioManager.MODE_INVALID;
+  private volatile boolean hasAudioFocus = false;
+
+  // Lifecycle
+  private volatile boolean isHostPaused = false;
+  private volatile boolean keepEventsInBackground = false;
+  private final Set<String> dirtyEvents = new HashSet<>();
+
+  // Bluetooth link warm-up
+  private static final int DEFAULT_WARM_UP_IDLE_TIMEOUT_MS = 30000;
+  private volatile boolean bluetoothWarmUpEnabled = false;
+  private int bluetoothWarmUpIdleTimeoutMs = DEFAULT_WARM_UP_IDLE_TIMEOUT_MS;
+  private boolean isBluetoothLinkWarm = false;
+  private volatile boolean isScoAudioConnected = false;
+  private int warmUpCount = 0;
+  private int warmHitCount = 0;
+  private int coldMissCount = 0;
+  private int warmUpExpiredCount = 0;
+
+  // Route health watchdog, runs on the main looper only
+  private static final int ROUTE_HEALTH_SETTLE_DELAY_MS = 500;
+  private static final int ROUTE_HEALTH_MAX_RECOVERY_ATTEMPTS = 3;
+  private volatile boolean routeWatchdogEnabled = true;
+  private AudioDevice intendedRoute = null;
+  private int routeRecoveryAttempts = 0;
+  private final Set<String> moduleSelectedRouteIds = new HashSet<>();
+  private volatile boolean expectedSpeakerphoneOn = false;
+  private long routeDegradedSince = 0;
+  private boolean routeRecoveryFailed = false;
+  private int routeHealthCheckCount = 0;
+  private int routeHealthFailureCount = 0;
+  private int routeRecoveryCount = 0;
+  private int routeRecoveryFailedCount = 0;
+  private long lastRecoveryTimeMs = 0;
+  private long maxRecoveryTimeMs = 0;
+  private long totalRecoveryTimeMs = 0;
+
+  // Proximity routing, runs on the main looper only
+  private static final int PROXIMITY_DEBOUNCE_MS = 300;
+  private static final int PROXIMITY_MAX_REPORT_LATENCY_US = 100000;
+  private static final float PROXIMITY_NEAR_DISTANCE_CM = 5f;
+  private static final long PROXIMITY_WAKE_LOCK_TIMEOUT_MS = 60 * 60 * 1000;
+  private SensorManager sensorManager;
+  private Sensor proximitySensor;
+  private PowerManager.WakeLock proximityWakeLock;
+  private final SensorEventListener proximitySensorListener;
+  private boolean proximityModeEnabled = false;
+  private boolean isProximityMonitoring = false;
+  private boolean isProximityNear = false;
+  private boolean pendingProximityNear = false;
+  private AudioDevice proximityFarRoute = null;
   public enum AudioDevice { SPEAKER_PHONE, WIRED_HEADSET, EARPIECE, BLUETOOTH, NONE }
+  public enum BluetoothProfileType { SCO, A2DP, BLE_HEADSET, BLE_SPEAKER, NONE }
+  public enum SessionUsage { MEDIA, COMMUNICATION }
+  public enum AudioMode { NORMAL, IN_COMMUNICATION, RINGTONE }
+
+  // Bluetooth profiles in order of preference for each session usage
+  private static final List<BluetoothProfileType> MEDIA_BLUETOOTH_PROFILES = Arrays.asList(
+    BluetoothProfileType.BLE_HEADSET,
+    BluetoothProfileType.BLE_SPEAKER,
+    BluetoothProfileType.A2DP
+  );
+  private static final List<BluetoothProfileType> COMMUNICATION_BLUETOOTH_PROFILES = Arrays.asList(
+    BluetoothProfileType.BLE_HEADSET,
+    BluetoothProfileType.SCO
+  );
 
 
   public AudioManagerModule(ReactApplicationContext reactContext) {
@@ -101,10 +188,10 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       handler.post(() -> {
           mediaRouter = MediaRouter.getInstance(reactContext);
           mediaRouterCallback = new MediaRouterCallback();
-          MediaRouteSelector mSelector = new MediaRouteSelector.Builder()
+          mediaRouteSelector = new MediaRouteSelector.Builder()
                           .addControlCategory(MediaControlIntent.CATEGORY_LIVE_AUDIO)
                           .build();
-          mediaRouter.addCallback(mSelector, mediaRouterCallback);
+          mediaRouter.addCallback(mediaRouteSelector, mediaRouterCallback);
       });
 
       audioManager = ((AudioManager) reactContext.getSystemService(Context.AUDIO_SERVICE));
@@ -113,6 +200,18 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       bluetoothServiceListener = new BluetoothServiceListener();
       BluetoothAdapter bluetoothAdapter = BluetoothAdapter.getDefaultAdapter();
       bluetoothAdapter.getProfileProxy(reactContext, bluetoothServiceListener, BluetoothProfile.HEADSET);
+
+      sensorManager = (SensorManager) reactContext.getSystemService(Context.SENSOR_SERVICE);
+      proximitySensor = sensorManager != null ? sensorManager.getDefaultSensor(Sensor.TYPE_PROXIMITY) : null;
+      proximitySensorListener = new ProximitySensorListener();
+
+      PowerManager powerManager = (PowerManager) reactContext.getSystemService(Context.POWER_SERVICE);
+      if (powerManager != null && powerManager.isWakeLockLevelSupported(PowerManager.PROXIMITY_SCREEN_OFF_WAKE_LOCK)) {
+          proximityWakeLock = powerManager.newWakeLock(PowerManager.PROXIMITY_SCREEN_OFF_WAKE_LOCK, TAG + ":proximity");
+          proximityWakeLock.setReferenceCounted(false);
+      }
+
+      reactContext.addLifecycleEventListener(this);
       Log.d(TAG, TAG + "- initialized");
   }
 
@@ -131,27 +230,56 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
 
   @ReactMethod
   public void start(Promise promise) {
-      IntentFilter headsetFilter = new IntentFilter();
-      headsetFilter.addAction(BluetoothHeadset.ACTION_CONNECTION_STATE_CHANGED);
-      headsetFilter.addAction(Intent.ACTION_HEADSET_PLUG);
-      reactContext.registerReceiver(headsetReceiver, headsetFilter);
+      // Start and stop run on the main looper, so they are ordered with each other and with routing
+      handler.post(() -> {
+         if (isStarted) {
+             WritableMap data = Arguments.createMap();
 
-      requestAudioFocus();
+             data.putString("selectedDevice", getCurrentSelectedDevice());
+             data.putArray("devices", createJSDevices(audioManager.getDevices(AudioManager.GET_DEVICES_OUTPUTS)));
 
-      audioManager.registerAudioDeviceCallback(audioDeviceCallback, null);
-      audioManager.setMicrophoneMute(false);
+             promise.resolve(data);
+             return;
+         }
 
-      scoStatusTimer = new Timer();
-      TimerTask task = new TimerTask() {
-          @Override
-          public void run() {
-              checkBluetoothDeviceTask();
-          }
-      };
+         IntentFilter headsetFilter = new IntentFilter();
+         headsetFilter.addAction(BluetoothHeadset.ACTION_CONNECTION_STATE_CHANGED);
+         headsetFilter.addAction(Intent.ACTION_HEADSET_PLUG);
+         headsetFilter.addAction(AudioManager.ACTION_SCO_AUDIO_STATE_UPDATED);
+         reactContext.registerReceiver(headsetReceiver, headsetFilter);
 
-      // scoStatusTimer.schedule(task, 0, 1000);
+         audioManager.registerAudioDeviceCallback(audioDeviceCallback, null);
+         audioManager.setMicrophoneMute(false);
+
+         // Removed by stop, adding an already registered callback only updates its selector
+         mediaRouter.addCallback(mediaRouteSelector, mediaRouterCallback);
+
+         scoStatusTimer = new Timer();
+         TimerTask task = new TimerTask() {
+             @Override
+             public void run() {
+                 checkBluetoothDeviceTask();
+             }
+         };
+
+         // scoStatusTimer.schedule(task, 0, 1000);
+
+         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && !isModeListenerRegistered) {
+             if (modeChangedListener == null) {
+                 modeChangedListener = new ModeChangedListener();
+             }
+             audioManager.addOnModeChangedListener(executor, (ModeChangedListener) modeChangedListener);
+             isModeListenerRegistered = true;
+         }
+
+         // Mode goes first: focus and communication routing depend on it. The module counts as
+         // started only once the original mode is saved, so nothing can change it before
+         previousPlatformMode = audioManager.getMode();
+         expectedSpeakerphoneOn = audioManager.isSpeakerphoneOn();
+         isStarted = true;
+         setMode();
+         requestAudioFocus();
 
-      handler.post(() -> {
          List<RouteInfo> routes = mediaRouter.getRoutes();
          HashMap<String, RouteInfo> routesMap = getRoutesHashMap(routes);
          RouteInfo bluetoothRoute = routesMap.get(AudioDevice.BLUETOOTH.name());
@@ -160,7 +288,7 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
          String selectedRoute = AudioDevice.NONE.name();
 
          if (bluetoothRoute != null) {
-             selectAudioRoute(bluetoothRoute, false);
+             selectBluetoothRoute(bluetoothRoute);
              selectedRoute = AudioDevice.BLUETOOTH.name();
          } else if (wiredRoute != null) {
              selectAudioRoute(wiredRoute, false);
@@ -170,6 +298,13 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
              selectedRoute = AudioDevice.SPEAKER_PHONE.name();
          }
 
+         // Default phone route is keyed as WIRED_HEADSET, it is the earpiece without a headset
+         if (selectedRoute.equals(AudioDevice.WIRED_HEADSET.name()) && !hasWiredHeadset()) {
+             setIntendedRoute(AudioDevice.EARPIECE);
+         } else if (!selectedRoute.equals(AudioDevice.NONE.name())) {
+             setIntendedRoute(AudioDevice.valueOf(selectedRoute));
+         }
+
          AudioDeviceInfo[] devices = audioManager.getDevices(AudioManager.GET_DEVICES_OUTPUTS);
          WritableMap data = Arguments.createMap();
 
@@ -182,34 +317,55 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
 
   @ReactMethod
   public void stop() {
-      if (scoStatusTimer != null) {
-          scoStatusTimer.cancel();
-          scoStatusTimer = null;
-      }
+      // Teardown in reverse order on the main looper, with the other routing calls:
+      // routing, focus, then mode
+      handler.post(() -> {
+          if (!isStarted) {
+              return;
+          }
 
-      abandonAudioFocus();
+          isStarted = false;
 
-      audioManager.unregisterAudioDeviceCallback(audioDeviceCallback);
+          if (scoStatusTimer != null) {
+              scoStatusTimer.cancel();
+              scoStatusTimer = null;
+          }
 
-      if (headsetReceiver != null) {
-         reactContext.unregisterReceiver(headsetReceiver);
-      }
+          releaseBluetoothProfile();
+          coolDownBluetoothLink();
+          handler.removeCallbacks(routeHealthCheckRunner);
+          setIntendedRoute(null);
 
-      if (mediaRouterCallback != null && mediaRouter != null) {
-         handler.post(() -> {
-            mediaRouter.removeCallback(mediaRouterCallback);
-         });
-      }
+          abandonAudioFocus();
+          restoreMode();
+
+          if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && isModeListenerRegistered) {
+              audioManager.removeOnModeChangedListener((ModeChangedListener) modeChangedListener);
+              isModeListenerRegistered = false;
+          }
+
+          audioManager.unregisterAudioDeviceCallback(audioDeviceCallback);
+
+          if (headsetReceiver != null) {
+             reactContext.unregisterReceiver(headsetReceiver);
+          }
+
+          if (mediaRouterCallback != null && mediaRouter != null) {
+             mediaRouter.removeCallback(mediaRouterCallback);
+          }
+      });
   }
 
   @ReactMethod
   public void chooseAudioRoute(String audioRoute, Promise promise) {
     Log.d(TAG, "USER CHOSEN AUDIO ROUTE" + audioRoute);
 
-    setMode();
-    requestAudioFocus();
-
     handler.post(() -> {
+        // Platform mode is only touched between start and stop, so stop can restore it
+        if (isStarted) {
+            setMode();
+        }
+        requestAudioFocus();
         setAudioRouteFromRoutes(audioRoute);
     });
 
@@ -247,19 +403,718 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       promise.resolve(hasWiredHeadset());
   }
 
+  @ReactMethod
+  public void setSessionUsage(String usage, Promise promise) {
+      SessionUsage nextUsage;
+
+      try {
+          nextUsage = SessionUsage.valueOf(usage);
+      } catch (IllegalArgumentException e) {
+          promise.reject("E_INVALID_SESSION_USAGE", "Unknown session usage: " + usage);
+          return;
+      }
+
+      // Focus request fields are only touched on the main looper
+      handler.post(() -> {
+          applySessionUsage(nextUsage);
+
+          if (activeBluetoothProfile != BluetoothProfileType.NONE) {
+              requestAudioFocus();
+              RouteInfo bluetoothRoute = getRoutesHashMap(mediaRouter.getRoutes()).get(AudioDevice.BLUETOOTH.name());
+              selectBluetoothRoute(bluetoothRoute);
+          }
+
+          promise.resolve(sessionUsage.name());
+      });
+  }
+
+  @ReactMethod
+  public void setAudioMode(String mode, Promise promise) {
+      AudioMode nextMode;
+
+      try {
+          nextMode = AudioMode.valueOf(mode);
+      } catch (IllegalArgumentException e) {
+          promise.reject("E_INVALID_AUDIO_MODE", "Unknown audio mode: " + mode);
+          return;
+      }
+
+      Log.d(TAG, "setAudioMode: " + audioMode + " -> " + nextMode);
+      audioMode = nextMode;
+
+      if (!isStarted) {
+          promise.resolve(audioMode.name());
+          return;
+      }
+
+      handler.post(() -> {
+          setMode();
+          requestAudioFocus();
+
+          // Communication device has to be set again after the mode switch
+          if (activeBluetoothProfile != BluetoothProfileType.NONE) {
+              RouteInfo bluetoothRoute = getRoutesHashMap(mediaRouter.getRoutes()).get(AudioDevice.BLUETOOTH.name());
+              selectBluetoothRoute(bluetoothRoute);
+          }
+
+          promise.resolve(audioMode.name());
+      });
+  }
+
+  @ReactMethod
+  public void getAudioMode(Promise promise) {
+      promise.resolve(getPlatformModeName(audioManager.getMode()));
+  }
+
+  @ReactMethod
+  public void applyConfiguration(ReadableMap config, Promise promise) {
+      final SessionUsage nextUsage;
+      final AudioMode nextMode;
+      final AudioDevice nextRoute;
+      final Boolean focus;
+      final Boolean speaker;
+      final Boolean micMute;
+
+      // Validate the whole configuration before anything is applied
+      try {
+          ReadableMap attributes = hasConfigValue(config, "attributes") ? config.getMap("attributes") : null;
+          nextUsage = attributes != null ? getConfigEnum(attributes, "usage", SessionUsage.class) : null;
+          nextMode = getConfigEnum(config, "mode", AudioMode.class);
+          nextRoute = getConfigEnum(config, "route", AudioDevice.class);
+          focus = hasConfigValue(config, "focus") ? config.getBoolean("focus") : null;
+          speaker = hasConfigValue(config, "speaker") ? config.getBoolean("speaker") : null;
+          micMute = hasConfigValue(config, "micMute") ? config.getBoolean("micMute") : null;
+      } catch (ConfigurationException e) {
+          promise.reject(e.code, e.getMessage());
+          return;
+      } catch (RuntimeException e) {
+          // Wrongly typed values throw UnexpectedNativeTypeException
+          promise.reject("E_INVALID_CONFIGURATION", "Invalid configuration value: " + e.getMessage());
+          return;
+      }
+
+      if (nextRoute == AudioDevice.NONE) {
+          promise.reject("E_INVALID_CONFIGURATION", "Route NONE can not be selected");
+          return;
+      }
+
+      if (nextRoute != null && speaker != null && speaker != (nextRoute == AudioDevice.SPEAKER_PHONE)) {
+          promise.reject("E_INVALID_CONFIGURATION", "Route " + nextRoute.name() + " conflicts with speaker: " + speaker);
+          return;
+      }
+
+      // Runs on the main looper, so route callbacks can not interleave with the transaction
+      handler.post(() -> {
+          ConfigurationState previousState = captureConfigurationState();
+
+          try {
+              if (nextUsage != null) {
+                  applySessionUsage(nextUsage);
+              }
+
+              // Before start the mode is only stored, start saves the previous mode and applies it
+              if (nextMode != null) {
+                  audioMode = nextMode;
+
+                  if (isStarted) {
+                      setMode();
+                  }
+              }
+
+              if (focus != null) {
+                  if (focus && requestAudioFocus().equals("AUDIOFOCUS_REQUEST_FAILED")) {
+                      throw new ConfigurationException("E_AUDIO_FOCUS_FAILED", "Audio focus request failed");
+                  } else if (!focus && hasAudioFocus) {
+                      abandonAudioFocus();
+                  }
+              }
+
+              if (nextRoute != null) {
+                  applyConfigurationRoute(nextRoute);
+              }
+
+              // Speaker goes through the routing so the watchdog keeps it as the intended route.
+              // With a route it has been validated to match and is already applied
+              if (nextRoute == null && speaker != null && (speaker || audioManager.isSpeakerphoneOn())) {
+                  applyConfigurationRoute(speaker ? AudioDevice.SPEAKER_PHONE : AudioDevice.EARPIECE);
+              }
+
+              if (micMute != null) {
+                  audioManager.setMicrophoneMute(micMute);
+              }
+
+              promise.resolve(createJSStateSnapshot());
+          } catch (ConfigurationException e) {
+              Log.d(TAG, "applyConfiguration failed: " + e.getMessage());
+              restoreConfigurationState(previousState);
+              promise.reject(e.code, e.getMessage());
+          } catch (RuntimeException e) {
+              Log.d(TAG, "applyConfiguration failed: " + e.getMessage());
+              restoreConfigurationState(previousState);
+              promise.reject("E_APPLY_CONFIGURATION", e.getMessage(), e);
+          }
+      });
+  }
+
+  @ReactMethod
+  public void setRouteWatchdogEnabled(boolean enabled, Promise promise) {
+      routeWatchdogEnabled = enabled;
+
+      handler.post(() -> {
+          if (enabled) {
+              scheduleRouteHealthCheck();
+          } else {
+              handler.removeCallbacks(routeHealthCheckRunner);
+          }
+
+          promise.resolve(routeWatchdogEnabled);
+      });
+  }
+
+  @ReactMethod
+  public void getRouteHealthStats(Promise promise) {
+      handler.post(() -> {
+          promise.resolve(createJSRouteHealthStats());
+      });
+  }
+
+  @ReactMethod
+  public void setProximityMode(boolean enabled, Promise promise) {
+      if (enabled && proximitySensor == null) {
+          promise.reject("E_PROXIMITY_UNAVAILABLE", "Proximity sensor is not available");
+          return;
+      }
+
+      handler.post(() -> {
+          // Give the route back before the sensor goes away
+          if (!enabled && isProximityNear && proximityFarRoute != null) {
+              setProximityRoute(proximityFarRoute, false);
+          }
+
+          proximityModeEnabled = enabled;
+          updateProximityMonitoring();
+          promise.resolve(proximityModeEnabled);
+      });
+  }
+
+  @ReactMethod
+  public void setBluetoothWarmUp(boolean enabled, double idleTimeoutMs, Promise promise) {
+      handler.post(() -> {
+          bluetoothWarmUpEnabled = enabled;
+          bluetoothWarmUpIdleTimeoutMs = idleTimeoutMs > 0 ? (int) idleTimeoutMs : DEFAULT_WARM_UP_IDLE_TIMEOUT_MS;
+
+          if (enabled) {
+              warmUpBluetoothLink();
+          } else {
+              coolDownBluetoothLink();
+          }
+
+          promise.resolve(createJSWarmUpStats());
+      });
+  }
+
+  @ReactMethod
+  public void getBluetoothWarmUpStats(Promise promise) {
+      handler.post(() -> {
+          promise.resolve(createJSWarmUpStats());
+      });
+  }
+
+  @ReactMethod
+  public void setKeepEventsInBackground(boolean enabled, Promise promise) {
+      keepEventsInBackground = enabled;
+      promise.resolve(keepEventsInBackground);
+  }
+
   // COMMON METHODS
   private void selectAudioRoute(MediaRouter.RouteInfo route, boolean isSpeakerPhone) {
-      audioManager.setSpeakerphoneOn(isSpeakerPhone);
+      setSpeakerphoneOn(isSpeakerPhone);
+      selectRoute(route);
+  }
+
+  // Selections and speaker changes made by the module are recorded, so the watchdog can tell
+  // them apart from changes made by the user outside the app
+  @MainThread
+  private void selectRoute(MediaRouter.RouteInfo route) {
+      if (!route.isSelected()) {
+          moduleSelectedRouteIds.add(route.getId());
+      }
+
       route.select();
   }
 
+  private void setSpeakerphoneOn(boolean enabled) {
+      expectedSpeakerphoneOn = enabled;
+      audioManager.setSpeakerphoneOn(enabled);
+  }
+
+  @MainThread
+  private void setIntendedRoute(AudioDevice route) {
+      if (route == intendedRoute) {
+          return;
+      }
+
+      Log.d(TAG, "setIntendedRoute: " + intendedRoute + " -> " + route);
+      intendedRoute = route;
+      routeRecoveryAttempts = 0;
+      routeRecoveryFailed = false;
+      scheduleRouteHealthCheck();
+      updateProximityMonitoring();
+  }
+
+  /**
+   * Proximity only switches between the built-in routes, so the sensor and the screen-off wake
+   * lock are held only while one of them is the intended route.
+   */
+  @MainThread
+  private void updateProximityMonitoring() {
+      boolean shouldMonitor = proximityModeEnabled
+          && isStarted
+          && (!isHostPaused || isCallKeptInBackground())
+          && (intendedRoute == AudioDevice.EARPIECE || intendedRoute == AudioDevice.SPEAKER_PHONE);
+
+      if (shouldMonitor == isProximityMonitoring) {
+          return;
+      }
+
+      isProximityMonitoring = shouldMonitor;
+      Log.d(TAG, "updateProximityMonitoring: " + shouldMonitor);
+
+      if (shouldMonitor) {
+          sensorManager.registerListener(
+              proximitySensorListener,
+              proximitySensor,
+              SensorManager.SENSOR_DELAY_NORMAL,
+              PROXIMITY_MAX_REPORT_LATENCY_US,
+              handler
+          );
+
+          if (proximityWakeLock != null) {
+              proximityWakeLock.acquire(PROXIMITY_WAKE_LOCK_TIMEOUT_MS);
+          }
+      } else {
+          sensorManager.unregisterListener(proximitySensorListener);
+          handler.removeCallbacks(proximityDebounceRunner);
+          isProximityNear = false;
+          pendingProximityNear = false;
+          proximityFarRoute = null;
+
+          if (proximityWakeLock != null && proximityWakeLock.isHeld()) {
+              proximityWakeLock.release();
+          }
+      }
+  }
+
+  @MainThread
+  private void onProximityChanged(boolean isNear) {
+      // Lock is not reference counted, acquiring again renews its timeout
+      if (proximityWakeLock != null && proximityWakeLock.isHeld()) {
+          proximityWakeLock.acquire(PROXIMITY_WAKE_LOCK_TIMEOUT_MS);
+      }
+
+      handler.removeCallbacks(proximityDebounceRunner);
+      pendingProximityNear = isNear;
+
+      if (isNear != isProximityNear) {
+          handler.postDelayed(proximityDebounceRunner, PROXIMITY_DEBOUNCE_MS);
+      }
+  }
+
+  @MainThread
+  private void applyProximityRoute() {
+      isProximityNear = pendingProximityNear;
+
+      if (!isProximityMonitoring) {
+          return;
+      }
+
+      if (isProximityNear) {
+          proximityFarRoute = intendedRoute;
+          setProximityRoute(AudioDevice.EARPIECE, true);
+      } else {
+          // Route is restored only if nobody changed it while the sensor was covered
+          if (proximityFarRoute != null && intendedRoute == AudioDevice.EARPIECE) {
+              setProximityRoute(proximityFarRoute, false);
+          }
+
+          proximityFarRoute = null;
+      }
+  }
+
+  @MainThread
+  private void setProximityRoute(AudioDevice route, boolean isNear) {
+      if (route == intendedRoute) {
+          return;
+      }
+
+      Log.d(TAG, "setProximityRoute: " + route + ", isNear: " + isNear);
+      setAudioRouteFromRoutes(route.name());
+
+      WritableMap data = Arguments.createMap();
+      data.putString("route", route.name());
+      data.putBoolean("isNear", isNear);
+      emitEvent(PROXIMITY_ROUTE_CHANGED_EVENT_NAME, data);
+  }
+
+  /**
+   * Checks are driven by route, device, SCO and plug callbacks. Several callbacks usually arrive
+   * for a single change, so the check runs once the platform state has settled.
+   */
+  private void scheduleRouteHealthCheck() {
+      if (!routeWatchdogEnabled || !isStarted) {
+          return;
+      }
+
+      handler.removeCallbacks(routeHealthCheckRunner);
+      handler.postDelayed(routeHealthCheckRunner, ROUTE_HEALTH_SETTLE_DELAY_MS);
+  }
+
+  @MainThread
+  private void checkRouteHealth() {
+      if (!routeWatchdogEnabled || !isStarted || intendedRoute == null || mediaRouter == null) {
+          return;
+      }
+
+      if (audioManager.isSpeakerphoneOn() != expectedSpeakerphoneOn) {
+          expectedSpeakerphoneOn = audioManager.isSpeakerphoneOn();
+          adoptExternalRoute(expectedSpeakerphoneOn ? AudioDevice.SPEAKER_PHONE : getBuiltInRoute());
+      }
+
+      routeHealthCheckCount++;
+      String issue = findRouteHealthIssue(intendedRoute);
+
+      if (issue == null) {
+          if (routeDegradedSince > 0) {
+              long recoveryTimeMs = SystemClock.elapsedRealtime() - routeDegradedSince;
+              routeDegradedSince = 0;
+              routeRecoveryCount++;
+              lastRecoveryTimeMs = recoveryTimeMs;
+              totalRecoveryTimeMs += recoveryTimeMs;
+              maxRecoveryTimeMs = Math.max(maxRecoveryTimeMs, recoveryTimeMs);
+
+              emitRouteHealthEvent("RECOVERED", null, recoveryTimeMs);
+          }
+
+          routeRecoveryAttempts = 0;
+          routeRecoveryFailed = false;
+          return;
+      }
+
+      if (routeDegradedSince == 0) {
+          routeDegradedSince = SystemClock.elapsedRealtime();
+          routeHealthFailureCount++;
+          emitRouteHealthEvent("DEGRADED", issue, 0);
+      }
+
+      if (routeRecoveryFailed) {
+          return;
+      }
+
+      if (routeRecoveryAttempts >= ROUTE_HEALTH_MAX_RECOVERY_ATTEMPTS) {
+          routeRecoveryFailed = true;
+          routeRecoveryFailedCount++;
+          emitRouteHealthEvent("FAILED", issue, SystemClock.elapsedRealtime() - routeDegradedSince);
+          return;
+      }
+
+      routeRecoveryAttempts++;
+      Log.d(TAG, "Route health issue: " + issue + ", recovery attempt " + routeRecoveryAttempts);
+      recoverRoute(issue);
+
+      // Bounded retry with backoff, not a periodic poll
+      handler.removeCallbacks(routeHealthCheckRunner);
+      handler.postDelayed(routeHealthCheckRunner, (long) ROUTE_HEALTH_SETTLE_DELAY_MS * (routeRecoveryAttempts + 1));
+  }
+
+  /**
+   * Route changes the module did not make, e.g. from the system output switcher, are the user's
+   * choice: they become the intended route instead of being reverted as a fault.
+   */
+  @MainThread
+  private void adoptExternalRoute(AudioDevice route) {
+      Log.d(TAG, "Route changed outside the module, adopting: " + route);
+      routeDegradedSince = 0;
+      setIntendedRoute(route);
+  }
+
+  private AudioDevice getExternalRouteDevice(RouteInfo route) {
+      if (route.isBluetooth()) {
+          return AudioDevice.BLUETOOTH;
+      }
+
+      return audioManager.isSpeakerphoneOn() ? AudioDevice.SPEAKER_PHONE : getBuiltInRoute();
+  }
+
+  private AudioDevice getBuiltInRoute() {
+      return hasWiredHeadset() ? AudioDevice.WIRED_HEADSET : AudioDevice.EARPIECE;
+  }
+
+  @MainThread
+  private String findRouteHealthIssue(AudioDevice route) {
+      RouteInfo selectedRoute = mediaRouter.getSelectedRoute();
+
+      switch (route) {
+          case BLUETOOTH:
+              if (!hasBluetoothDevices()) {
+                  return "BLUETOOTH_UNAVAILABLE";
+              } else if (sessionUsage == SessionUsage.MEDIA && !selectedRoute.isBluetooth()) {
+                  return "BLUETOOTH_NOT_SELECTED";
+              } else if (sessionUsage == SessionUsage.COMMUNICATION && !isBluetoothCommunicationActive()) {
+                  return "BLUETOOTH_LINK_DOWN";
+              }
+              break;
+          case SPEAKER_PHONE:
+              if (!audioManager.isSpeakerphoneOn()) {
+                  return "SPEAKER_OFF";
+              } else if (selectedRoute.isBluetooth()) {
+                  return "BLUETOOTH_SELECTED";
+              }
+              break;
+          case WIRED_HEADSET:
+              if (!hasWiredHeadset()) {
+                  return "WIRED_HEADSET_UNAVAILABLE";
+              } else if (audioManager.isSpeakerphoneOn() || audioManager.isBluetoothScoOn() || selectedRoute.isBluetooth()) {
+                  return "WIRED_HEADSET_NOT_SELECTED";
+              }
+              break;
+          case EARPIECE:
+              if (audioManager.isSpeakerphoneOn() || audioManager.isBluetoothScoOn() || selectedRoute.isBluetooth()) {
+                  return "EARPIECE_NOT_SELECTED";
+              }
+              break;
+          default:
+              break;
+      }
+
+      return null;
+  }
+
+  private boolean isBluetoothCommunicationActive() {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+          AudioDeviceInfo device = audioManager.getCommunicationDevice();
+          return device != null && getBluetoothProfileType(device.getType()) != BluetoothProfileType.NONE;
+      }
+
+      return audioManager.isBluetoothScoOn();
+  }
+
+  @MainThread
+  private void recoverRoute(String issue) {
+      if (issue.equals("BLUETOOTH_UNAVAILABLE") || issue.equals("WIRED_HEADSET_UNAVAILABLE")) {
+          // Intended device is gone, fall back the same way onRouteRemoved does
+          AudioDevice fallback = intendedRoute == AudioDevice.BLUETOOTH && hasWiredHeadset()
+              ? AudioDevice.WIRED_HEADSET
+              : AudioDevice.SPEAKER_PHONE;
+          long degradedSince = routeDegradedSince;
+
+          setAudioRouteFromRoutes(fallback.name());
+          // Fallback is a recovery of the same incident, keep its start time
+          routeDegradedSince = degradedSince;
+          return;
+      }
+
+      setAudioRouteFromRoutes(intendedRoute.name());
+  }
+
+  private void emitRouteHealthEvent(String status, String issue, long durationMs) {
+      WritableMap data = Arguments.createMap();
+
+      data.putString("status", status);
+      data.putString("intendedRoute", intendedRoute.name());
+      data.putString("actualRoute", getCurrentSelectedDevice());
+      data.putInt("attempts", routeRecoveryAttempts);
+      data.putDouble("durationMs", durationMs);
+
+      if (issue != null) {
+          data.putString("issue", issue);
+      }
+
+      Log.d(TAG, "ROUTE HEALTH: " + data);
+      emitEvent(ROUTE_HEALTH_CHANGED_EVENT_NAME, data);
+  }
+
+  private WritableMap createJSRouteHealthStats() {
+      WritableMap stats = Arguments.createMap();
+
+      stats.putBoolean("enabled", routeWatchdogEnabled);
+      stats.putString("intendedRoute", intendedRoute != null ? intendedRoute.name() : AudioDevice.NONE.name());
+      stats.putBoolean("isDegraded", routeDegradedSince > 0);
+      stats.putInt("checks", routeHealthCheckCount);
+      stats.putInt("failures", routeHealthFailureCount);
+      stats.putInt("recoveries", routeRecoveryCount);
+      stats.putInt("failedRecoveries", routeRecoveryFailedCount);
+      stats.putDouble("lastRecoveryMs", lastRecoveryTimeMs);
+      stats.putDouble("maxRecoveryMs", maxRecoveryTimeMs);
+      stats.putDouble("averageRecoveryMs", routeRecoveryCount > 0 ? (double) totalRecoveryTimeMs / routeRecoveryCount : 0);
+
+      return stats;
+  }
+
+  private void applySessionUsage(SessionUsage nextUsage) {
+      Log.d(TAG, "applySessionUsage: " + sessionUsage + " -> " + nextUsage);
+
+      if (nextUsage == sessionUsage) {
+          return;
+      }
+
+      // Focus request is built from the usage attributes, rebuild it and keep focus if it was held
+      boolean hadAudioFocus = hasAudioFocus;
+
+      if (mAudioFocusRequest != null) {
+          abandonAudioFocus();
+          mAudioFocusRequest = null;
+      }
+      mAudioAttributes = null;
+      sessionUsage = nextUsage;
+
+      if (hadAudioFocus) {
+          requestAudioFocus();
+      }
+  }
+
+  @MainThread
+  private void applyConfigurationRoute(AudioDevice route) throws ConfigurationException {
+      HashMap<String, RouteInfo> routesMap = getRoutesHashMap(mediaRouter.getRoutes());
+
+      if (route == AudioDevice.BLUETOOTH && !routesMap.containsKey(AudioDevice.BLUETOOTH.name())) {
+          throw new ConfigurationException("E_ROUTE_UNAVAILABLE", "Bluetooth route is not available");
+      } else if (route == AudioDevice.WIRED_HEADSET && !hasWiredHeadset()) {
+          throw new ConfigurationException("E_ROUTE_UNAVAILABLE", "Wired headset is not plugged in");
+      }
+
+      setAudioRouteFromRoutes(route.name());
+  }
+
+  @MainThread
+  private ConfigurationState captureConfigurationState() {
+      ConfigurationState state = new ConfigurationState();
+
+      state.sessionUsage = sessionUsage;
+      state.audioMode = audioMode;
+      state.hasAudioFocus = hasAudioFocus;
+      state.selectedDevice = getCurrentSelectedDevice();
+      state.isSpeakerphoneOn = audioManager.isSpeakerphoneOn();
+      state.isMicrophoneMute = audioManager.isMicrophoneMute();
+
+      return state;
+  }
+
+  @MainThread
+  private void restoreConfigurationState(ConfigurationState state) {
+      applySessionUsage(state.sessionUsage);
+
+      audioMode = state.audioMode;
+
+      if (isStarted) {
+          setMode();
+      }
+
+      if (state.hasAudioFocus) {
+          requestAudioFocus();
+      } else if (hasAudioFocus) {
+          abandonAudioFocus();
+      }
+
+      if (!state.selectedDevice.equals(getCurrentSelectedDevice())) {
+          setAudioRouteFromRoutes(state.selectedDevice);
+      }
+
+      setSpeakerphoneOn(state.isSpeakerphoneOn);
+      audioManager.setMicrophoneMute(state.isMicrophoneMute);
+  }
+
+  private boolean hasConfigValue(ReadableMap config, String key) {
+      return config.hasKey(key) && !config.isNull(key);
+  }
+
+  private <E extends Enum<E>> E getConfigEnum(ReadableMap config, String key, Class<E> type) throws ConfigurationException {
+      if (!hasConfigValue(config, key)) {
+          return null;
+      }
+
+      String value = config.getString(key);
+
+      for (E constant : type.getEnumConstants()) {
+          if (constant.name().equals(value)) {
+              return constant;
+          }
+      }
+
+      throw new ConfigurationException("E_INVALID_CONFIGURATION", "Unknown " + key + ": " + value);
+  }
+
   private void setMode() {
-      audioManager.setMode(AudioManager.MODE_NORMAL);
+      int platformMode = getPlatformMode(audioMode);
+
+      if (audioManager.getMode() != platformMode) {
+          audioManager.setMode(platformMode);
+      }
+
+      reportModeChange(audioManager.getMode());
+  }
+
+  private void restoreMode() {
+      if (previousPlatformMode == AudioManager.MODE_INVALID) {
+          return;
+      }
+
+      audioManager.setMode(previousPlatformMode);
+      previousPlatformMode = AudioManager.MODE_INVALID;
+      reportModeChange(audioManager.getMode());
+  }
+
+  private synchronized void reportModeChange(int platformMode) {
+      if (platformMode == lastReportedPlatformMode) {
+          return;
+      }
+
+      WritableMap data = Arguments.createMap();
+      data.putString("mode", getPlatformModeName(platformMode));
+      data.putString("previousMode", getPlatformModeName(lastReportedPlatformMode));
+      lastReportedPlatformMode = platformMode;
+
+      Log.d(TAG, "AUDIO MODE CHANGED: " + data);
+      emitEvent(AUDIO_MODE_CHANGED_EVENT_NAME, data);
+  }
+
+  private int getPlatformMode(AudioMode mode) {
+      switch (mode) {
+          case IN_COMMUNICATION:
+              return AudioManager.MODE_IN_COMMUNICATION;
+          case RINGTONE:
+              return AudioManager.MODE_RINGTONE;
+          default:
+              return AudioManager.MODE_NORMAL;
+      }
+  }
+
+  private String getPlatformModeName(int platformMode) {
+      switch (platformMode) {
+          case AudioManager.MODE_NORMAL:
+              return "NORMAL";
+          case AudioManager.MODE_IN_COMMUNICATION:
+              return "IN_COMMUNICATION";
+          case AudioManager.MODE_RINGTONE:
+              return "RINGTONE";
+          case AudioManager.MODE_IN_CALL:
+              return "IN_CALL";
+          case AudioManager.MODE_CALL_SCREENING:
+              return "CALL_SCREENING";
+          default:
+              return "UNKNOWN";
+      }
   }
 
   @MainThread
   private void setAudioRouteFromRoutes(String audioRoute) {
       Log.d(TAG, "setAudioRouteFromRoutes route: " + audioRoute);
+
+      for (AudioDevice device : AudioDevice.values()) {
+          if (device != AudioDevice.NONE && device.name().equals(audioRoute)) {
+              setIntendedRoute(device);
+          }
+      }
+
       List<RouteInfo> routes = mediaRouter.getRoutes();
       HashMap<String, RouteInfo> routesMap = getRoutesHashMap(routes);
       RouteInfo selectedRoute = routes.stream()
@@ -269,8 +1124,9 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
 
       if (audioRoute.equals(AudioDevice.BLUETOOTH.name()) && routesMap.containsKey(AudioDevice.BLUETOOTH.name())) {
           RouteInfo bluetoothRoute = routesMap.get(AudioDevice.BLUETOOTH.name());
-          selectAudioRoute(bluetoothRoute, false);
+          selectBluetoothRoute(bluetoothRoute);
       } else if (audioRoute.equals(AudioDevice.SPEAKER_PHONE.name())) {
+          releaseBluetoothProfile();
           RouteInfo speakerRoute = routesMap.get(AudioDevice.SPEAKER_PHONE.name());
           RouteInfo wiredRoute = routesMap.get(AudioDevice.WIRED_HEADSET.name());
 
@@ -280,6 +1136,8 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
              selectAudioRoute(wiredRoute, true);
           }
       } else if (audioRoute.equals(AudioDevice.WIRED_HEADSET.name()) || audioRoute.equals(AudioDevice.EARPIECE.name())) {
+          releaseBluetoothProfile();
+
           if (selectedRoute != null) {
               if (selectedRoute.isBluetooth()) {
                  RouteInfo wiredRoute = routesMap.get(AudioDevice.WIRED_HEADSET.name());
@@ -291,7 +1149,7 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
                     selectAudioRoute(speakerRoute, false);
                  }
               } else {
-                 audioManager.setSpeakerphoneOn(false);
+                 setSpeakerphoneOn(false);
               }
           }
       }
@@ -317,13 +1175,185 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       return routesMap;
   }
 
+  @MainThread
+  private void selectBluetoothRoute(RouteInfo bluetoothRoute) {
+      AudioDeviceInfo device = findBluetoothDevice(sessionUsage);
+      BluetoothProfileType profile = device != null
+          ? getBluetoothProfileType(device.getType())
+          : BluetoothProfileType.NONE;
+
+      Log.d(TAG, "selectBluetoothRoute usage: " + sessionUsage + ", profile: " + profile);
+      setIntendedRoute(AudioDevice.BLUETOOTH);
+
+      if (sessionUsage == SessionUsage.MEDIA) {
+          // Playback goes over A2DP or LE Audio, the narrowband SCO link is not needed
+          stopBluetoothCommunicationLink();
+
+          if (bluetoothRoute != null) {
+              selectAudioRoute(bluetoothRoute, false);
+          }
+      } else {
+          setSpeakerphoneOn(false);
+
+          boolean isWarmHit = isBluetoothLinkWarm && isScoAudioConnected;
+
+          // Only a switch from another route to bluetooth counts, not re-applying an active link
+          boolean isSwitchToBluetooth = activeBluetoothProfile == BluetoothProfileType.NONE;
+
+          if (isSwitchToBluetooth && (profile == BluetoothProfileType.SCO || profile == BluetoothProfileType.NONE)) {
+              if (isWarmHit) {
+                  warmHitCount++;
+              } else {
+                  coldMissCount++;
+              }
+          }
+
+          if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && device != null) {
+              audioManager.setCommunicationDevice(device);
+          } else if (isWarmHit) {
+              // SCO link is already up, only the routing has to be switched
+              audioManager.setBluetoothScoOn(true);
+          } else {
+              setBluetoothScoOn(true);
+          }
+
+          // Link is in use now, it is no longer speculative
+          handler.removeCallbacks(warmUpIdleTimeoutRunner);
+          isBluetoothLinkWarm = false;
+
+          if (bluetoothRoute != null) {
+              selectRoute(bluetoothRoute);
+          }
+      }
+
+      setActiveBluetoothProfile(profile, device);
+  }
+
+  private void releaseBluetoothProfile() {
+      if (activeBluetoothProfile == BluetoothProfileType.NONE) {
+          return;
+      }
+
+      if (canWarmUpBluetoothLink() && activeBluetoothProfile == BluetoothProfileType.SCO) {
+          // Keep the SCO link up for a quick switch back, only the routing is released
+          audioManager.setBluetoothScoOn(false);
+          setActiveBluetoothProfile(BluetoothProfileType.NONE, null);
+          markBluetoothLinkWarm();
+          return;
+      }
+
+      stopBluetoothCommunicationLink();
+      setActiveBluetoothProfile(BluetoothProfileType.NONE, null);
+  }
+
+  /**
+   * Speculatively keeps the SCO link up while another route is selected, so the switch to
+   * bluetooth only has to change the routing. A link is warmed when the user switches away from
+   * bluetooth or when warm-up is enabled with an idle headset; an added bluetooth route is
+   * selected right away and needs no warm-up. Only the legacy SCO path supports this: from API 31
+   * the link follows setCommunicationDevice and cannot be held without routing audio to it.
+   */
+  private boolean canWarmUpBluetoothLink() {
+      return bluetoothWarmUpEnabled
+          && isStarted
+          && sessionUsage == SessionUsage.COMMUNICATION
+          && Build.VERSION.SDK_INT < Build.VERSION_CODES.S
+          && findBluetoothDevice(SessionUsage.COMMUNICATION) != null;
+  }
+
+  @MainThread
+  private void warmUpBluetoothLink() {
+      if (isBluetoothLinkWarm || activeBluetoothProfile != BluetoothProfileType.NONE || !canWarmUpBluetoothLink()) {
+          return;
+      }
+
+      Log.d(TAG, "warmUpBluetoothLink");
+      audioManager.startBluetoothSco();
+      audioManager.setBluetoothScoOn(false);
+      markBluetoothLinkWarm();
+  }
+
+  private void markBluetoothLinkWarm() {
+      isBluetoothLinkWarm = true;
+      warmUpCount++;
+      handler.removeCallbacks(warmUpIdleTimeoutRunner);
+      handler.postDelayed(warmUpIdleTimeoutRunner, bluetoothWarmUpIdleTimeoutMs);
+  }
+
+  @MainThread
+  private void coolDownBluetoothLink() {
+      handler.removeCallbacks(warmUpIdleTimeoutRunner);
+
+      if (!isBluetoothLinkWarm) {
+          return;
+      }
+
+      Log.d(TAG, "coolDownBluetoothLink");
+      isBluetoothLinkWarm = false;
+
+      if (activeBluetoothProfile == BluetoothProfileType.NONE) {
+          audioManager.stopBluetoothSco();
+      }
+  }
+
+  private void stopBluetoothCommunicationLink() {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+          audioManager.clearCommunicationDevice();
+      }
+
+      if (audioManager.isBluetoothScoOn()) {
+          setBluetoothScoOn(false);
+      }
+  }
+
+  private void setActiveBluetoothProfile(BluetoothProfileType profile, AudioDeviceInfo device) {
+      if (profile == activeBluetoothProfile && device == null) {
+          return;
+      }
+
+      activeBluetoothProfile = profile;
+
+      if (deferEvent(BLUETOOTH_PROFILE_CHANGED_EVENT_NAME)) {
+          return;
+      }
+
+      WritableMap data = Arguments.createMap();
+      data.putString("profile", profile.name());
+      data.putString("usage", sessionUsage.name());
+
+      if (device != null) {
+          data.putString("id", Integer.toString(device.getId()));
+          data.putString("name", device.getProductName().toString());
+          data.putArray("encodings", createJSEncodings(device));
+      }
+
+      emitEvent(BLUETOOTH_PROFILE_CHANGED_EVENT_NAME, data);
+  }
+
+  private AudioDeviceInfo findBluetoothDevice(SessionUsage usage) {
+      final AudioDeviceInfo[] devices = audioManager.getDevices(AudioManager.GET_DEVICES_OUTPUTS);
+      List<BluetoothProfileType> profiles = usage == SessionUsage.MEDIA
+          ? MEDIA_BLUETOOTH_PROFILES
+          : COMMUNICATION_BLUETOOTH_PROFILES;
+
+      for (BluetoothProfileType profile : profiles) {
+          for (AudioDeviceInfo device : devices) {
+              if (getBluetoothProfileType(device.getType()) == profile) {
+                  return device;
+              }
+          }
+      }
+
+      return null;
+  }
+
   private String getCurrentSelectedDevice() {
       boolean hasBluetooth = hasBluetoothDevices();
       Log.d(TAG, "BLUETOOTH has DEVICES: " + hasBluetooth);
 
       String currentRoute = AudioDevice.NONE.name();
 
-      if (hasBluetoothDevices() && audioManager.isBluetoothScoOn()) {
+      if (hasBluetooth && (activeBluetoothProfile != BluetoothProfileType.NONE || audioManager.isBluetoothScoOn())) {
         currentRoute = AudioDevice.BLUETOOTH.name();
       } else if (hasWiredHeadset()) {
         currentRoute = AudioDevice.WIRED_HEADSET.name();
@@ -342,7 +1372,7 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       final AudioDeviceInfo[] devices = audioManager.getDevices(AudioManager.GET_DEVICES_ALL);
 
       for (AudioDeviceInfo device : devices) {
-          if (device.getType() == AudioDeviceInfo.TYPE_BLUETOOTH_SCO) {
+          if (getBluetoothProfileType(device.getType()) != BluetoothProfileType.NONE) {
               Log.d(TAG, "BluetoothHeadset: found");
               return true;
           }
@@ -376,7 +1406,7 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
   private String getCorrectDeviceType(int type) {
       if (type == AudioDeviceInfo.TYPE_WIRED_HEADSET || type == AudioDeviceInfo.TYPE_USB_DEVICE || type == AudioDeviceInfo.TYPE_WIRED_HEADPHONES) {
           return AudioDevice.WIRED_HEADSET.name();
-      } else if (type == AudioDeviceInfo.TYPE_BLUETOOTH_SCO) {
+      } else if (getBluetoothProfileType(type) != BluetoothProfileType.NONE) {
           return AudioDevice.BLUETOOTH.name();
       } else if (type == AudioDeviceInfo.TYPE_BUILTIN_EARPIECE) {
           return AudioDevice.EARPIECE.name();
@@ -387,8 +1417,44 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       }
   }
 
+  private BluetoothProfileType getBluetoothProfileType(int type) {
+      switch (type) {
+          case AudioDeviceInfo.TYPE_BLUETOOTH_SCO:
+              return BluetoothProfileType.SCO;
+          case AudioDeviceInfo.TYPE_BLUETOOTH_A2DP:
+              return BluetoothProfileType.A2DP;
+          case AudioDeviceInfo.TYPE_BLE_HEADSET:
+              return BluetoothProfileType.BLE_HEADSET;
+          case AudioDeviceInfo.TYPE_BLE_SPEAKER:
+              return BluetoothProfileType.BLE_SPEAKER;
+          default:
+              return BluetoothProfileType.NONE;
+      }
+  }
+
+  private String getEncodingName(int encoding) {
+      switch (encoding) {
+          case AudioFormat.ENCODING_PCM_16BIT:
+              return "PCM_16BIT";
+          case AudioFormat.ENCODING_PCM_8BIT:
+              return "PCM_8BIT";
+          case AudioFormat.ENCODING_PCM_FLOAT:
+              return "PCM_FLOAT";
+          case AudioFormat.ENCODING_AAC_LC:
+              return "AAC_LC";
+          case AudioFormat.ENCODING_AC3:
+              return "AC3";
+          case AudioFormat.ENCODING_E_AC3:
+              return "E_AC3";
+          case AudioFormat.ENCODING_OPUS:
+              return "OPUS";
+          default:
+              return "ENCODING_" + encoding;
+      }
+  }
+
   public void chooseAudioRouteWithSco(String audioRoute) {
-      audioManager.setSpeakerphoneOn(audioRoute.equals(AudioDevice.SPEAKER_PHONE.name()));
+      setSpeakerphoneOn(audioRoute.equals(AudioDevice.SPEAKER_PHONE.name()));
       setBluetoothScoOn(audioRoute.equals(AudioDevice.BLUETOOTH.name()));
   }
 
@@ -418,14 +1484,16 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
               ? requestAudioFocusV26()
               : requestAudioFocusOld();
       Log.d(TAG, "requestAudioFocus(): " + requestAudioFocusResStr);
+      hasAudioFocus = !requestAudioFocusResStr.equals("AUDIOFOCUS_REQUEST_FAILED");
       return requestAudioFocusResStr;
   }
 
   private String requestAudioFocusV26() {
       if (mAudioAttributes == null) {
+         boolean isMedia = sessionUsage == SessionUsage.MEDIA;
          mAudioAttributes = new AudioAttributes.Builder()
-                             .setUsage(AudioAttributes.USAGE_VOICE_COMMUNICATION)
-                             .setContentType(AudioAttributes.CONTENT_TYPE_SPEECH)
+                             .setUsage(isMedia ? AudioAttributes.USAGE_MEDIA : AudioAttributes.USAGE_VOICE_COMMUNICATION)
+                             .setContentType(isMedia ? AudioAttributes.CONTENT_TYPE_MUSIC : AudioAttributes.CONTENT_TYPE_SPEECH)
                              .build();
       }
 
@@ -459,7 +1527,8 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
   }
 
   private String requestAudioFocusOld() {
-      int requestAudioFocusRes = audioManager.requestAudioFocus(this, AudioManager.STREAM_VOICE_CALL, AudioManager.AUDIOFOCUS_GAIN_TRANSIENT);
+      int streamType = sessionUsage == SessionUsage.MEDIA ? AudioManager.STREAM_MUSIC : AudioManager.STREAM_VOICE_CALL;
+      int requestAudioFocusRes = audioManager.requestAudioFocus(this, streamType, AudioManager.AUDIOFOCUS_GAIN_TRANSIENT);
 
       String requestAudioFocusResStr;
       switch (requestAudioFocusRes) {
@@ -482,10 +1551,16 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
               ? abandonAudioFocusV26()
               : abandonAudioFocusOld();
       Log.d(TAG, "abandonAudioFocus(): " + abandonAudioFocusResStr);
+      hasAudioFocus = false;
       return abandonAudioFocusResStr;
   }
 
   private String abandonAudioFocusV26() {
+      if (mAudioFocusRequest == null) {
+          // Nothing was requested, there is no focus to abandon
+          return "AUDIOFOCUS_REQUEST_GRANTED";
+      }
+
       int abandonAudioFocusRes = audioManager.abandonAudioFocusRequest(mAudioFocusRequest);
 
       String abandonAudioFocusResStr;
@@ -547,8 +1622,29 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
   }
 
   // REACT UTILITY METHODS
+  private boolean isCallKeptInBackground() {
+    // An active call session may opt out to keep receiving events in background
+    return keepEventsInBackground && isStarted && sessionUsage == SessionUsage.COMMUNICATION;
+  }
+
+  private boolean shouldDeferEvents() {
+    return isHostPaused && !isCallKeptInBackground();
+  }
+
+  private boolean deferEvent(String eventName) {
+    if (!shouldDeferEvents()) {
+       return false;
+    }
+
+    synchronized (dirtyEvents) {
+       dirtyEvents.add(eventName);
+    }
+
+    return true;
+  }
+
   private void emitEvent(String eventName,  Object data) {
-    if (!reactContext.hasActiveCatalystInstance()) {
+    if (!reactContext.hasActiveCatalystInstance() || deferEvent(eventName)) {
        return;
     }
 
@@ -559,11 +1655,32 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
     });
   }
 
+  @MainThread
+  private WritableMap createJSStateSnapshot() {
+      WritableMap snapshot = Arguments.createMap();
+      AudioDeviceInfo[] devices = audioManager.getDevices(AudioManager.GET_DEVICES_OUTPUTS);
+
+      snapshot.putString("selectedDevice", getCurrentSelectedDevice());
+      snapshot.putArray("devices", createJSDevices(devices));
+      snapshot.putArray("routes", createJSRoutes(mediaRouter.getRoutes()));
+      snapshot.putString("bluetoothProfile", activeBluetoothProfile.name());
+      snapshot.putString("sessionUsage", sessionUsage.name());
+      snapshot.putString("mode", getPlatformModeName(audioManager.getMode()));
+      snapshot.putBoolean("hasAudioFocus", hasAudioFocus);
+      snapshot.putBoolean("isSpeakerphoneOn", audioManager.isSpeakerphoneOn());
+      snapshot.putBoolean("isMicrophoneMute", audioManager.isMicrophoneMute());
+
+      return snapshot;
+  }
+
   private WritableArray createJSDevices(AudioDeviceInfo[] devices) {
       WritableArray allDeviceInfos = Arguments.createArray();
 
       Set<Integer> checks = Set.of(
         AudioDeviceInfo.TYPE_BLUETOOTH_SCO,
+        AudioDeviceInfo.TYPE_BLUETOOTH_A2DP,
+        AudioDeviceInfo.TYPE_BLE_HEADSET,
+        AudioDeviceInfo.TYPE_BLE_SPEAKER,
         AudioDeviceInfo.TYPE_BUILTIN_EARPIECE,
         AudioDeviceInfo.TYPE_BUILTIN_SPEAKER,
         AudioDeviceInfo.TYPE_WIRED_HEADPHONES,
@@ -597,7 +1714,7 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
     int originType = route.getDeviceType();
     String routeType = AudioDevice.NONE.name();
 
-    if (originType == DEVICE_TYPE_BLUETOOTH) {
+    if (route.isBluetooth()) {
       routeType = AudioDevice.BLUETOOTH.name();
     } else if (originType == RouteInfo.DEVICE_TYPE_SPEAKER) {
       routeType = AudioDevice.SPEAKER_PHONE.name();
@@ -618,43 +1735,140 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       WritableMap deviceInfo = Arguments.createMap();
 
       deviceInfo.putString("type", getCorrectDeviceType(type));
+      deviceInfo.putString("profile", getBluetoothProfileType(type).name());
       deviceInfo.putString("name", name);
       deviceInfo.putString("id", Integer.toString(id));
 
       return deviceInfo;
   }
 
+  private WritableMap createJSWarmUpStats() {
+      WritableMap stats = Arguments.createMap();
+
+      stats.putBoolean("enabled", bluetoothWarmUpEnabled);
+      stats.putInt("idleTimeoutMs", bluetoothWarmUpIdleTimeoutMs);
+      stats.putBoolean("isWarm", isBluetoothLinkWarm);
+      stats.putInt("warmUps", warmUpCount);
+      stats.putInt("warmHits", warmHitCount);
+      stats.putInt("coldMisses", coldMissCount);
+      stats.putInt("expired", warmUpExpiredCount);
+
+      return stats;
+  }
+
+  private WritableArray createJSEncodings(AudioDeviceInfo device) {
+      WritableArray encodings = Arguments.createArray();
+
+      for (int encoding : device.getEncodings()) {
+          encodings.pushString(getEncodingName(encoding));
+      }
+
+      return encodings;
+  }
+
 
   // CLASSES, RUNNABLES, TIMERS
+  private static class ConfigurationState {
+      SessionUsage sessionUsage;
+      AudioMode audioMode;
+      boolean hasAudioFocus;
+      String selectedDevice;
+      boolean isSpeakerphoneOn;
+      boolean isMicrophoneMute;
+  }
+
+  private static class ConfigurationException extends Exception {
+      final String code;
+
+      ConfigurationException(String code, String message) {
+          super(message);
+          this.code = code;
+      }
+  }
+
   private class MediaRouterCallback extends MediaRouter.Callback {
       @Override
       public void onRouteAdded(MediaRouter router, RouteInfo route) {
           logRouteInfo("MediaRouterCallback onRouteAdded: ", route);
-          emitEvent(ROUTE_ADDED_EVENT_NAME, createJSRouteObject(route));
 
-          if (route.getDeviceType() == DEVICE_TYPE_BLUETOOTH) {
-              setMode();
+          if (!deferEvent(ROUTE_ADDED_EVENT_NAME)) {
+              emitEvent(ROUTE_ADDED_EVENT_NAME, createJSRouteObject(route));
+          }
+
+          if (route.isBluetooth()) {
+              if (isStarted) {
+                  setMode();
+              }
               requestAudioFocus();
-              selectAudioRoute(route, false);
+              selectBluetoothRoute(route);
           }
+
+          scheduleRouteHealthCheck();
       }
 
       @Override
       public void onRouteRemoved(MediaRouter router, RouteInfo route) {
           logRouteInfo("MediaRouterCallback onRouteRemoved: ", route);
-          emitEvent(ROUTE_REMOVED_EVENT_NAME, createJSRouteObject(route));
 
-          if (route.getDeviceType() == DEVICE_TYPE_BLUETOOTH && !hasWiredHeadset()) {
-              setMode();
+          if (!deferEvent(ROUTE_REMOVED_EVENT_NAME)) {
+              emitEvent(ROUTE_REMOVED_EVENT_NAME, createJSRouteObject(route));
+          }
+
+          if (route.isBluetooth()) {
+              releaseBluetoothProfile();
+              coolDownBluetoothLink();
+          }
+
+          if (route.isBluetooth() && !hasWiredHeadset()) {
+              if (isStarted) {
+                  setMode();
+              }
               requestAudioFocus();
-              audioManager.setSpeakerphoneOn(true);
+              setSpeakerphoneOn(true);
+              setIntendedRoute(AudioDevice.SPEAKER_PHONE);
+          } else if (route.isBluetooth()) {
+              setIntendedRoute(AudioDevice.WIRED_HEADSET);
           }
+
+          scheduleRouteHealthCheck();
       }
 
       @Override
       public void onRouteSelected(MediaRouter router, RouteInfo route) {
           logRouteInfo("MediaRouterCallback onRouteSelected: ", route);
-          emitEvent(ROUTE_SELECTED_EVENT_NAME, createJSRouteObject(route));
+
+          if (!deferEvent(ROUTE_SELECTED_EVENT_NAME)) {
+              emitEvent(ROUTE_SELECTED_EVENT_NAME, createJSRouteObject(route));
+          }
+
+          if (!moduleSelectedRouteIds.remove(route.getId()) && isStarted) {
+              adoptExternalRoute(getExternalRouteDevice(route));
+          }
+
+          scheduleRouteHealthCheck();
+      }
+
+      @Override
+      public void onRouteUnselected(MediaRouter router, RouteInfo route) {
+          logRouteInfo("MediaRouterCallback onRouteUnselected: ", route);
+
+          if (!deferEvent(ROUTE_UNSELECTED_EVENT_NAME)) {
+              emitEvent(ROUTE_UNSELECTED_EVENT_NAME, createJSRouteObject(route));
+          }
+
+          scheduleRouteHealthCheck();
+      }
+  }
+
+  private class ProximitySensorListener implements SensorEventListener {
+      @Override
+      public void onSensorChanged(SensorEvent event) {
+          float nearDistance = Math.min(event.sensor.getMaximumRange(), PROXIMITY_NEAR_DISTANCE_CM);
+          onProximityChanged(event.values[0] < nearDistance);
+      }
+
+      @Override
+      public void onAccuracyChanged(Sensor sensor, int accuracy) {
       }
   }
 
@@ -690,6 +1904,11 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
               } else if (state == BluetoothHeadset.STATE_DISCONNECTED) {
                 Log.d(TAG, "BT STATE : " + "--STATE_DISCONNECTED");
               }
+          } else if (action.equals(AudioManager.ACTION_SCO_AUDIO_STATE_UPDATED)) {
+              final int state = intent.getIntExtra(AudioManager.EXTRA_SCO_AUDIO_STATE, AudioManager.SCO_AUDIO_STATE_DISCONNECTED);
+              Log.d(TAG, "ACTION  : " + "SCO_AUDIO_STATE_UPDATED - " + state);
+              isScoAudioConnected = state == AudioManager.SCO_AUDIO_STATE_CONNECTED;
+              handler.post(AudioManagerModule.this::scheduleRouteHealthCheck);
           } else if (action.equals(Intent.ACTION_HEADSET_PLUG)) {
               Log.d(TAG, "ACTION  : " + "WeiredHeadset - ACTION_HEADSET_PLUG");
               final int state = intent.getIntExtra("state", -1);
@@ -720,17 +1939,58 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
           @Override
           public void onAudioDevicesAdded(AudioDeviceInfo[] addedDevices) {
               executor.execute(onAudioDeviceChangeRunner);
+              handler.post(AudioManagerModule.this::scheduleRouteHealthCheck);
           }
 
           @Override
           public void onAudioDevicesRemoved(AudioDeviceInfo[] removedDevices) {
               executor.execute(onAudioDeviceChangeRunner);
+              handler.post(AudioManagerModule.this::scheduleRouteHealthCheck);
           }
       };
 
+  private final Runnable proximityDebounceRunner = new Runnable() {
+      @Override
+      public void run() {
+          applyProximityRoute();
+      }
+  };
+
+  private final Runnable routeHealthCheckRunner = new Runnable() {
+      @Override
+      public void run() {
+          checkRouteHealth();
+      }
+  };
+
+  private final Runnable warmUpIdleTimeoutRunner = new Runnable() {
+      @Override
+      public void run() {
+          Log.d(TAG, "Bluetooth warm-up idle timeout");
+          warmUpExpiredCount++;
+          coolDownBluetoothLink();
+      }
+  };
+
+  // OnModeChangedListener only exists from API 31, so the listener is created lazily and kept as Object
+  private Object modeChangedListener;
+
+  @RequiresApi(Build.VERSION_CODES.S)
+  private class ModeChangedListener implements AudioManager.OnModeChangedListener {
+      @Override
+      public void onModeChanged(int mode) {
+          reportModeChange(mode);
+      }
+  }
+
   private final Runnable onAudioDeviceChangeRunner = new Runnable() {
       @Override
       public void run() {
+          // Device list is rebuilt in the resume snapshot, skip enumeration while in background
+          if (deferEvent(DEVICE_CHANGED_EVENT_NAME)) {
+              return;
+          }
+
           AudioDeviceInfo[] devices = audioManager.getDevices(AudioManager.GET_DEVICES_OUTPUTS);
 
           WritableArray devicesMap = createJSDevices(devices);
@@ -739,6 +1999,61 @@ public class AudioManagerModule extends ReactContextBaseJavaModule implements Au
       }
   };
 
+  @Override
+  public void onHostResume() {
+      isHostPaused = false;
+      updateProximityMonitoring();
+
+      Set<String> changedEvents;
+      synchronized (dirtyEvents) {
+          changedEvents = new HashSet<>(dirtyEvents);
+          dirtyEvents.clear();
+      }
+
+      if (changedEvents.isEmpty() || mediaRouter == null) {
+          return;
+      }
+
+      Log.d(TAG, "onHostResume, state changed in background: " + changedEvents);
+
+      WritableMap snapshot = createJSStateSnapshot();
+      WritableArray changed = Arguments.createArray();
+
+      for (String eventName : changedEvents) {
+          changed.pushString(eventName);
+      }
+
+      snapshot.putArray("changedEvents", changed);
+      emitEvent(STATE_SNAPSHOT_EVENT_NAME, snapshot);
+  }
+
+  @Override
+  public void onHostPause() {
+      isHostPaused = true;
+      updateProximityMonitoring();
+  }
+
+  @Override
+  public void onHostDestroy() {
+      synchronized (dirtyEvents) {
+          dirtyEvents.clear();
+      }
+
+      stopProximityMonitoring();
+  }
+
+  @Override
+  public void invalidate() {
+      handler.post(this::stopProximityMonitoring);
+      super.invalidate();
+  }
+
+  @MainThread
+  private void stopProximityMonitoring() {
+      proximityModeEnabled = false;
+      updateProximityMonitoring();
+  }
+
   @Override
   public void onAudioFocusChange(int focusChange) {
       String focusChangeStr;
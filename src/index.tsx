@@ -35,6 +35,82 @@ export interface IDeviceInfo {
   id: string;
   name: string;
   type: TAudioRoute;
+  /**
+   * @description Only Android Platform
+   */
+  profile?: TBluetoothProfile;
+}
+
+export interface IBluetoothProfileInfo {
+  profile: TBluetoothProfile;
+  usage: TSessionUsage;
+  id?: string;
+  name?: string;
+  encodings?: string[];
+}
+
+export interface IAudioStateSnapshot {
+  selectedDevice: TAudioRoute | 'NONE';
+  devices: IDeviceInfo[];
+  routes: IRouteInfo[];
+  bluetoothProfile: TBluetoothProfile;
+  sessionUsage: TSessionUsage;
+  mode: IAudioModeInfo['mode'];
+  hasAudioFocus: boolean;
+  isSpeakerphoneOn: boolean;
+  isMicrophoneMute: boolean;
+  /**
+   * @description Events suppressed while the app was in background
+   */
+  changedEvents?: Array<keyof TEventListenerActionData>;
+}
+
+export interface IBluetoothWarmUpStats {
+  enabled: boolean;
+  idleTimeoutMs: number;
+  isWarm: boolean;
+  warmUps: number;
+  warmHits: number;
+  coldMisses: number;
+  expired: number;
+}
+
+export interface IAudioConfiguration {
+  mode?: TAudioMode;
+  route?: TAudioRoute;
+  focus?: boolean;
+  micMute?: boolean;
+  speaker?: boolean;
+  attributes?: {
+    usage?: TSessionUsage;
+  };
+}
+
+export interface IRouteHealthInfo {
+  status: 'DEGRADED' | 'RECOVERED' | 'FAILED';
+  intendedRoute: TAudioRoute;
+  actualRoute: TAudioRoute | 'NONE';
+  attempts: number;
+  durationMs: number;
+  issue?: string;
+}
+
+export interface IRouteHealthStats {
+  enabled: boolean;
+  intendedRoute: TAudioRoute | 'NONE';
+  isDegraded: boolean;
+  checks: number;
+  failures: number;
+  recoveries: number;
+  failedRecoveries: number;
+  lastRecoveryMs: number;
+  maxRecoveryMs: number;
+  averageRecoveryMs: number;
+}
+
+export interface IProximityRouteInfo {
+  route: TAudioRoute;
+  isNear: boolean;
 }
 
 export type TAudioRoute =
@@ -43,12 +119,33 @@ export type TAudioRoute =
   | 'BLUETOOTH'
   | 'WIRED_HEADSET';
 
+export type TBluetoothProfile =
+  | 'SCO'
+  | 'A2DP'
+  | 'BLE_HEADSET'
+  | 'BLE_SPEAKER'
+  | 'NONE';
+
+export type TSessionUsage = 'MEDIA' | 'COMMUNICATION';
+
+export type TAudioMode = 'NORMAL' | 'IN_COMMUNICATION' | 'RINGTONE';
+
+export interface IAudioModeInfo {
+  mode: TAudioMode | 'IN_CALL' | 'CALL_SCREENING' | 'UNKNOWN';
+  previousMode: TAudioMode | 'IN_CALL' | 'CALL_SCREENING' | 'UNKNOWN';
+}
+
 export type TEventListenerActionData = {
   onRouteAdded: IRouteInfo;
   onRouteRemoved: IRouteInfo;
   onRouteSelected: IRouteInfo;
   onRouteUnselected: IRouteInfo;
   onAudioDeviceChanged: IDeviceInfo[];
+  onBluetoothProfileChanged: IBluetoothProfileInfo;
+  onStateSnapshot: IAudioStateSnapshot;
+  onAudioModeChanged: IAudioModeInfo;
+  onRouteHealthChanged: IRouteHealthInfo;
+  onProximityRouteChanged: IProximityRouteInfo;
 };
 
 class AudioManagerService {
@@ -76,6 +173,27 @@ class AudioManagerService {
     this.removeAllListeners();
   }
 
+  /**
+   * @param config IAudioConfiguration
+   * @description Only Android Platform. Applies attributes, mode, focus, route,
+   * speaker and micMute in one native transaction. Rolls back and rejects if a
+   * step fails
+   * @return State after the configuration is applied
+   */
+  public async applyConfiguration(config: IAudioConfiguration) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.applyConfiguration(
+        config
+      )) as IAudioStateSnapshot;
+    }
+
+    if (config.route) {
+      this.chooseAudioRoute(config.route);
+    }
+
+    return null;
+  }
+
   /**
    * @param route TAudioRoute
    * @description Only Android Platform
@@ -84,6 +202,141 @@ class AudioManagerService {
     AudioManagerModule.chooseAudioRoute(route);
   }
 
+  /**
+   * @param usage TSessionUsage
+   * @description Only Android Platform. MEDIA routes bluetooth over A2DP/LE Audio,
+   * COMMUNICATION routes bluetooth over LE Audio/SCO
+   */
+  public async setSessionUsage(usage: TSessionUsage) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.setSessionUsage(usage)) as TSessionUsage;
+    }
+
+    return usage;
+  }
+
+  /**
+   * @param mode TAudioMode
+   * @description Only Android Platform. Applied before audio focus and routing,
+   * previous mode is restored on stop. IN_COMMUNICATION enables the platform
+   * voice path (AEC/NS, low-latency buffers)
+   */
+  public async setAudioMode(mode: TAudioMode) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.setAudioMode(mode)) as TAudioMode;
+    }
+
+    return mode;
+  }
+
+  /**
+   * @description Only Android Platform
+   * @return Current platform audio mode
+   */
+  public async getAudioMode() {
+    if (this.isAndroid) {
+      return (
+        await AudioManagerModule.getAudioMode()
+      ) as IAudioModeInfo['mode'];
+    }
+
+    return 'NORMAL';
+  }
+
+  /**
+   * @param enabled boolean
+   * @description Only Android Platform. While EARPIECE or SPEAKER_PHONE is selected,
+   * switches to EARPIECE when the proximity sensor is covered and back when it is
+   * released, turning the screen off in between
+   */
+  public async setProximityMode(enabled: boolean) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.setProximityMode(enabled)) as boolean;
+    }
+
+    return false;
+  }
+
+  /**
+   * @param enabled boolean
+   * @description Only Android Platform. Watchdog compares the intended route with
+   * the platform state after route and device callbacks and re-applies it.
+   * Routes selected outside the app become the new intended route
+   */
+  public async setRouteWatchdogEnabled(enabled: boolean) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.setRouteWatchdogEnabled(
+        enabled
+      )) as boolean;
+    }
+
+    return false;
+  }
+
+  /**
+   * @description Only Android Platform
+   * @return Route health checks and time-to-recovery statistics
+   */
+  public async getRouteHealthStats() {
+    if (this.isAndroid) {
+      return (
+        await AudioManagerModule.getRouteHealthStats()
+      ) as IRouteHealthStats;
+    }
+
+    return null;
+  }
+
+  /**
+   * @param options.enabled Keep the bluetooth SCO link up after switching away from
+   * bluetooth, or warm an idle headset when enabled
+   * @param options.idleTimeoutMs Drop the warm link after this time, 30000 by default
+   * @description Only Android Platform, below Android 12 (API 31)
+   */
+  public async setBluetoothWarmUp(options: {
+    enabled: boolean;
+    idleTimeoutMs?: number;
+  }) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.setBluetoothWarmUp(
+        options.enabled,
+        options.idleTimeoutMs ?? 0
+      )) as IBluetoothWarmUpStats;
+    }
+
+    return null;
+  }
+
+  /**
+   * @description Only Android Platform
+   * @return Bluetooth warm-up counters
+   */
+  public async getBluetoothWarmUpStats() {
+    if (this.isAndroid) {
+      return (
+        await AudioManagerModule.getBluetoothWarmUpStats()
+      ) as IBluetoothWarmUpStats;
+    }
+
+    return null;
+  }
+
+  /**
+   * @param enabled boolean
+   * @description Only Android Platform. Events are paused while the app is in
+   * background and a single onStateSnapshot is emitted on resume. An active
+   * COMMUNICATION session can opt out to keep receiving events
+   */
+  public async setKeepEventsInBackground(enabled: boolean) {
+    if (this.isAndroid) {
+      return (await AudioManagerModule.setKeepEventsInBackground(
+        enabled
+      )) as boolean;
+    }
+
+    return enabled;
+  }
+
   /**
    * @description Only Android Platform
    * @return List audio routes from system